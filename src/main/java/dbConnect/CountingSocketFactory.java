@@ -0,0 +1,111 @@
+package dbConnect;
+
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.protocol.StandardSocketFactory;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+
+/**
+ * Socket factory for Connector/J that reports traffic to {@link NetworkStatistics}.
+ * Bytes are counted on the raw socket, i.e. after compression and TLS.
+ */
+public class CountingSocketFactory extends StandardSocketFactory {
+
+    @Override
+    protected Socket createSocket(PropertySet props) {
+        return new CountingSocket();
+    }
+
+    private static class CountingSocket extends Socket {
+
+        private volatile boolean awaitingResponse = false;
+        private InputStream inputStream;
+        private OutputStream outputStream;
+
+        @Override
+        public synchronized InputStream getInputStream() throws IOException {
+
+            if (inputStream == null) {
+                inputStream = new FilterInputStream(super.getInputStream()) {
+
+                    @Override
+                    public int read() throws IOException {
+
+                        int value = super.read();
+                        if (value != -1) {
+                            received(1);
+                        }
+                        return value;
+                    }
+
+                    @Override
+                    public int read(byte[] buffer, int offset, int length) throws IOException {
+
+                        int count = super.read(buffer, offset, length);
+                        if (count > 0) {
+                            received(count);
+                        }
+                        return count;
+                    }
+
+                    @Override
+                    public long skip(long length) throws IOException {
+
+                        long count = super.skip(length);
+                        if (count > 0) {
+                            received(count);
+                        }
+                        return count;
+                    }
+                };
+            }
+
+            return inputStream;
+        }
+
+        @Override
+        public synchronized OutputStream getOutputStream() throws IOException {
+
+            if (outputStream == null) {
+                outputStream = new FilterOutputStream(super.getOutputStream()) {
+
+                    @Override
+                    public void write(int value) throws IOException {
+
+                        out.write(value);
+                        sent(1);
+                    }
+
+                    @Override
+                    public void write(byte[] buffer, int offset, int length) throws IOException {
+
+                        out.write(buffer, offset, length);
+                        sent(length);
+                    }
+                };
+            }
+
+            return outputStream;
+        }
+
+        private void sent(long bytes) {
+
+            if (!awaitingResponse) {
+                awaitingResponse = true;
+                NetworkStatistics.addRoundTrip();
+            }
+            NetworkStatistics.addBytesSent(bytes);
+        }
+
+        private void received(long bytes) {
+
+            awaitingResponse = false;
+            NetworkStatistics.addBytesReceived(bytes);
+        }
+    }
+}
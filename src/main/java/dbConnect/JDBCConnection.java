@@ -25,6 +25,14 @@ public class JDBCConnection {
     private static final String USER = propertiesLoader.getDBProperty("db.username");
     private static final String PASSWORD = propertiesLoader.getDBProperty("db.userpassword");
 
+    private static final boolean NETWORK_PROFILE = Boolean.parseBoolean(propertiesLoader.getDBProperty("db.network.profile"));
+    private static final boolean USE_COMPRESSION = Boolean.parseBoolean(propertiesLoader.getDBProperty("db.network.useCompression"));
+    private static final String MAX_ALLOWED_PACKET = propertiesLoader.getDBProperty("db.network.maxAllowedPacket");
+    private static final boolean CACHE_RESULT_SET_METADATA = Boolean.parseBoolean(propertiesLoader.getDBProperty("db.network.cacheResultSetMetadata"));
+    private static final boolean CACHE_SERVER_CONFIGURATION = Boolean.parseBoolean(propertiesLoader.getDBProperty("db.network.cacheServerConfiguration"));
+    private static final boolean USE_LOCAL_SESSION_STATE = Boolean.parseBoolean(propertiesLoader.getDBProperty("db.network.useLocalSessionState"));
+    private static final boolean NETWORK_STATISTICS = Boolean.parseBoolean(propertiesLoader.getDBProperty("db.network.statistics"));
+
     private static Connection con = null;
     private static Statement stmt = null;
     private static ResultSet rs = null;
@@ -36,19 +44,51 @@ public class JDBCConnection {
         mysqlDataSource.setUser(USER);
         mysqlDataSource.setPassword(PASSWORD);
         mysqlDataSource.setDatabaseName(DB_NAME);
+        mysqlDataSource.setServerName(HOST);
 
         LOG.info("Connect to '{}' by user '{}'.", URL, USER);
 
         try {
+            if (PORT != null) {
+                mysqlDataSource.setPort(Integer.parseInt(PORT.trim()));
+            }
+            if (NETWORK_PROFILE) {
+                applyNetworkProfile(mysqlDataSource);
+            }
+            if (NETWORK_STATISTICS) {
+                mysqlDataSource.setSocketFactory(CountingSocketFactory.class.getName());
+                NetworkStatistics.reset();
+            }
             con = mysqlDataSource.getConnection();
             LOG.info("Connection to '{}' DB established successfully.", DB_NAME);
 
         } catch (SQLException sqlException) {
 
             LOG.error("Connection to '{}' BD fail:\n {}.", DB_NAME, sqlException.getMessage());
+
+        } catch (NumberFormatException numberFormatException) {
+
+            LOG.error("Invalid numeric property in database.properties:\n {}.", numberFormatException.getMessage());
         }
     }
 
+    @Step("Apply network-efficiency profile.")
+    private static void applyNetworkProfile(MysqlDataSource mysqlDataSource) throws SQLException {
+
+        mysqlDataSource.setUseCompression(USE_COMPRESSION);
+        if (MAX_ALLOWED_PACKET != null) {
+            mysqlDataSource.setMaxAllowedPacket(Integer.parseInt(MAX_ALLOWED_PACKET.trim()));
+        }
+        mysqlDataSource.setCacheResultSetMetadata(CACHE_RESULT_SET_METADATA);
+        mysqlDataSource.setCacheServerConfiguration(CACHE_SERVER_CONFIGURATION);
+        mysqlDataSource.setUseLocalSessionState(USE_LOCAL_SESSION_STATE);
+
+        LOG.info("Network profile: useCompression={}, maxAllowedPacket={}, cacheResultSetMetadata={}, "
+                        + "cacheServerConfiguration={}, useLocalSessionState={}.",
+                USE_COMPRESSION, MAX_ALLOWED_PACKET, CACHE_RESULT_SET_METADATA,
+                CACHE_SERVER_CONFIGURATION, USE_LOCAL_SESSION_STATE);
+    }
+
     @Step("Create table.")
     public static void createTable(String query) {
 
@@ -279,8 +319,13 @@ public class JDBCConnection {
         if (con != null) {
             try {
                 con.close();
+                con = null;
                 LOG.info("Connection to '{}' DB closed successfully.", DB_NAME);
 
+                if (NETWORK_STATISTICS) {
+                    NetworkStatistics.logStatistics();
+                }
+
             } catch (SQLException sqlException) {
 
                 LOG.error("Fail to close connection to '{}' DB:\n {}.", DB_NAME, sqlException.getMessage());
@@ -0,0 +1,58 @@
+package dbConnect;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static utils.Log.LOG;
+
+/**
+ * Wire-level counters filled by {@link CountingSocketFactory}.
+ * A round-trip is counted each time the client starts sending after it has received a response
+ * (or at the first write of a connection), so it matches MySQL's request/response exchanges.
+ */
+public class NetworkStatistics {
+
+    private static final AtomicLong roundTrips = new AtomicLong();
+    private static final AtomicLong bytesSent = new AtomicLong();
+    private static final AtomicLong bytesReceived = new AtomicLong();
+
+    private NetworkStatistics() {
+
+    }
+
+    static void addRoundTrip() {
+        roundTrips.incrementAndGet();
+    }
+
+    static void addBytesSent(long bytes) {
+        bytesSent.addAndGet(bytes);
+    }
+
+    static void addBytesReceived(long bytes) {
+        bytesReceived.addAndGet(bytes);
+    }
+
+    public static long getRoundTrips() {
+        return roundTrips.get();
+    }
+
+    public static long getBytesSent() {
+        return bytesSent.get();
+    }
+
+    public static long getBytesReceived() {
+        return bytesReceived.get();
+    }
+
+    public static void reset() {
+
+        roundTrips.set(0);
+        bytesSent.set(0);
+        bytesReceived.set(0);
+    }
+
+    public static void logStatistics() {
+
+        LOG.info("Network statistics: {} round-trips, {} bytes sent, {} bytes received.",
+                getRoundTrips(), getBytesSent(), getBytesReceived());
+    }
+}
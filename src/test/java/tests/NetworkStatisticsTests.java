@@ -0,0 +1,107 @@
+package tests;
+
+import dbConnect.CountingSocketFactory;
+import dbConnect.NetworkStatistics;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.*;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests for network statistics of the counting socket")
+public class NetworkStatisticsTests {
+
+    private static class TestSocketFactory extends CountingSocketFactory {
+
+        Socket newSocket() {
+            return createSocket(null);
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+
+        NetworkStatistics.reset();
+    }
+
+    @Test
+    @Feature("Network statistics")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Count round-trips and bytes on a loopback connection")
+    @Description("This test verifies that round-trips, sent and received bytes match the traffic "
+            + "of a loopback connection and that reset clears them.")
+    void countRoundTripsAndBytesTest() throws IOException {
+
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+             Socket client = new TestSocketFactory().newSocket()) {
+
+            client.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort()));
+
+            try (Socket server = serverSocket.accept()) {
+                OutputStream clientOut = client.getOutputStream();
+                InputStream clientIn = client.getInputStream();
+                DataInputStream serverIn = new DataInputStream(server.getInputStream());
+                OutputStream serverOut = server.getOutputStream();
+
+                clientOut.write(1);
+                clientOut.write(new byte[4]);
+                clientOut.write(new byte[10], 2, 5);
+                clientOut.flush();
+                serverIn.readFully(new byte[10]);
+
+                serverOut.write(new byte[6]);
+                serverOut.flush();
+                readFully(clientIn, 6);
+
+                clientOut.write(new byte[3]);
+                clientOut.flush();
+                serverIn.readFully(new byte[3]);
+
+                serverOut.write(new byte[4]);
+                serverOut.flush();
+                skipFully(clientIn, 4);
+
+                assertEquals(2, NetworkStatistics.getRoundTrips(), "Wrong number of round-trips.");
+                assertEquals(13, NetworkStatistics.getBytesSent(), "Wrong number of bytes sent.");
+                assertEquals(10, NetworkStatistics.getBytesReceived(), "Wrong number of bytes received.");
+            }
+        }
+
+        NetworkStatistics.reset();
+
+        assertEquals(0, NetworkStatistics.getRoundTrips(), "Round-trips were not reset.");
+        assertEquals(0, NetworkStatistics.getBytesSent(), "Bytes sent were not reset.");
+        assertEquals(0, NetworkStatistics.getBytesReceived(), "Bytes received were not reset.");
+    }
+
+    private static void readFully(InputStream inputStream, int length) throws IOException {
+
+        int total = 0;
+        while (total < length) {
+            int count = inputStream.read(new byte[length - total], 0, length - total);
+            assertNotEquals(-1, count, "Unexpected end of stream.");
+            total += count;
+        }
+    }
+
+    private static void skipFully(InputStream inputStream, int length) throws IOException {
+
+        long total = 0;
+        while (total < length) {
+            long count = inputStream.skip(length - total);
+            if (count == 0) {
+                assertNotEquals(-1, inputStream.read(), "Unexpected end of stream.");
+                count = 1;
+            }
+            total += count;
+        }
+    }
+}